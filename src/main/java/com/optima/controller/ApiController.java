@@ -21,8 +21,24 @@ public class ApiController {
 
     // Project Endpoints
     @GetMapping("/projects")
-    public List<ProjectDTO> getAllProjects() {
-        return schedulingService.getAllProjects();
+    public List<ProjectDTO> getAllProjects(@RequestParam(required = false) String partition) {
+        return schedulingService.getAllProjects(partition);
+    }
+
+    @GetMapping("/projects/search")
+    public ProjectSearchResponseDTO searchProjects(@RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "prefix") String mode,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer maxDeadline,
+            @RequestParam(required = false) String partition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return schedulingService.searchProjects(q, mode, status, maxDeadline, partition, cursor, limit);
+    }
+
+    @GetMapping("/projects/columnar")
+    public ProjectColumnsDTO getProjectColumns(@RequestParam(required = false) String partition) {
+        return schedulingService.getProjectColumns(partition);
     }
 
     @GetMapping("/projects/{id}")
@@ -49,43 +65,71 @@ public class ApiController {
 
     // Schedule Endpoints
     @PostMapping("/schedule/generate")
-    public WeeklyScheduleResponseDTO generateSchedule() {
-        return schedulingService.generateWeeklySchedule();
+    public WeeklyScheduleResponseDTO generateSchedule(@RequestParam(required = false) String partition) {
+        return schedulingService.generateWeeklySchedule(partition);
     }
 
     @GetMapping("/schedule/current")
-    public WeeklyScheduleResponseDTO getCurrentSchedule() {
-        return schedulingService.generateWeeklySchedule();
+    public WeeklyScheduleResponseDTO getCurrentSchedule(@RequestParam(required = false) String partition) {
+        return schedulingService.generateWeeklySchedule(partition);
+    }
+
+    @GetMapping("/schedule/partitions")
+    public Map<String, WeeklyScheduleResponseDTO> getPartitionSchedules() {
+        return schedulingService.generateAllSchedules();
+    }
+
+    @PostMapping("/schedule/partitions/execute")
+    public PartitionExecutionResultDTO executeAllSchedules() {
+        return schedulingService.executeAllSchedules();
     }
 
     @PostMapping("/schedule/strategy")
-    public Map<String, String> setStrategy(@RequestParam String type) {
-        schedulingService.setStrategy(type);
-        return Map.of("currentStrategy", schedulingService.getCurrentStrategyName());
+    public Map<String, String> setStrategy(@RequestParam String type,
+            @RequestParam(required = false) String partition) {
+        schedulingService.setStrategy(partition, type);
+        return Map.of("currentStrategy", schedulingService.getCurrentStrategyName(partition));
     }
 
     @GetMapping("/schedule/strategy")
-    public Map<String, String> getStrategy() {
-        return Map.of("currentStrategy", schedulingService.getCurrentStrategyName());
+    public Map<String, String> getStrategy(@RequestParam(required = false) String partition) {
+        return Map.of("currentStrategy", schedulingService.getCurrentStrategyName(partition));
+    }
+
+    @PostMapping("/schedule/horizon")
+    public PartitionSettingsDTO setHorizon(@RequestParam int days,
+            @RequestParam(required = false) String partition) {
+        schedulingService.setHorizon(partition, days);
+        return schedulingService.getPartitionSettings(partition);
+    }
+
+    @GetMapping("/schedule/settings")
+    public PartitionSettingsDTO getSettings(@RequestParam(required = false) String partition) {
+        return schedulingService.getPartitionSettings(partition);
     }
 
     @GetMapping("/schedule/stats")
-    public DashboardDTO getStats() {
-        return schedulingService.getDashboardStats();
+    public DashboardDTO getStats(@RequestParam(required = false) String partition) {
+        return schedulingService.getDashboardStats(partition);
     }
 
     @GetMapping("/schedule/analytics")
-    public List<Map<String, Object>> getAnalytics() {
-        return schedulingService.getAnalyticsData();
+    public List<Map<String, Object>> getAnalytics(@RequestParam(required = false) String partition) {
+        return schedulingService.getAnalyticsData(partition);
+    }
+
+    @GetMapping("/schedule/analytics/columnar")
+    public AnalyticsColumnsDTO getAnalyticsColumns(@RequestParam(required = false) String partition) {
+        return schedulingService.getAnalyticsColumns(partition);
     }
 
     @PostMapping("/schedule/execute")
-    public void executeSchedule() {
-        schedulingService.executeCurrentSchedule();
+    public void executeSchedule(@RequestParam(required = false) String partition) {
+        schedulingService.executeCurrentSchedule(partition);
     }
 
     @GetMapping("/schedule/predictions")
-    public PredictionResponseDTO getPredictions() {
-        return schedulingService.getPredictions();
+    public PredictionResponseDTO getPredictions(@RequestParam(required = false) String partition) {
+        return schedulingService.getPredictions(partition);
     }
 }
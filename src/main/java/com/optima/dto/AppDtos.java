@@ -10,11 +10,32 @@ public class AppDtos {
                         @NotBlank(message = "Title is required") String title,
                         @NotNull(message = "Deadline is required") @Min(1) @Max(365) Integer deadline,
                         @NotNull(message = "Expected revenue is required") @Positive BigDecimal expectedRevenue,
+                        @Size(max = 64) String partition,
                         String status,
                         String createdAt,
                         String completedAt) {
         }
 
+        // Column-oriented project list; revenue is carried as cents to avoid per-row BigDecimal encoding
+        public record ProjectColumnsDTO(
+                        long[] ids,
+                        String[] titles,
+                        int[] deadlines,
+                        long[] expectedRevenueCents,
+                        String[] statuses,
+                        String[] partitions) {
+        }
+
+        public record AnalyticsColumnsDTO(
+                        String[] dates,
+                        long[] revenueCents) {
+        }
+
+        public record ProjectSearchResponseDTO(
+                        java.util.List<ProjectDTO> results,
+                        String nextCursor) {
+        }
+
         public record DashboardDTO(
                         BigDecimal weeklyRevenue,
                         BigDecimal monthlyRevenue,
@@ -25,7 +46,20 @@ public class AppDtos {
         public record WeeklyScheduleResponseDTO(
                         Map<Integer, ProjectDTO> schedule,
                         BigDecimal totalRevenue,
-                        int projectsScheduled) {
+                        int projectsScheduled,
+                        String partition) {
+        }
+
+        public record PartitionExecutionResultDTO(
+                        java.util.List<String> succeeded,
+                        Map<String, String> failed) {
+        }
+
+        public record PartitionSettingsDTO(
+                        String partition,
+                        String strategyKey,
+                        String strategyName,
+                        int horizon) {
         }
 
         public record StrategyPredictionDTO(
@@ -5,19 +5,24 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_partition_status", columnList = "partition_key, status")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project {
 
+    public static final String DEFAULT_PARTITION = "default";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -31,6 +36,11 @@ public class Project {
     @Column(name = "expected_revenue", nullable = false, precision = 12, scale = 2)
     private BigDecimal expectedRevenue;
 
+    @Column(name = "partition_key", nullable = false, length = 64)
+    @ColumnDefault("'" + DEFAULT_PARTITION + "'")
+    @Builder.Default
+    private String partitionKey = DEFAULT_PARTITION; // team or queue this project is scheduled within
+
     @Enumerated(EnumType.STRING)
     @Builder.Default
     private ProjectStatus status = ProjectStatus.PENDING;
@@ -11,9 +11,91 @@ import java.util.List;
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByStatus(Project.ProjectStatus status);
 
+    List<Project> findByPartitionKey(String partitionKey);
+
+    List<Project> findByPartitionKeyAndStatus(String partitionKey, Project.ProjectStatus status);
+
+    // Scalar rows for the columnar endpoint: no entities are loaded and revenue is converted to cents in SQL
+    @Query("SELECT new com.optima.repository.ProjectRepository$ProjectColumnRow(p.id, p.title, p.deadline, "
+            + "CAST(p.expectedRevenue * 100 AS Long), p.status, p.partitionKey) FROM Project p")
+    List<ProjectColumnRow> findColumnRows();
+
+    @Query("SELECT new com.optima.repository.ProjectRepository$ProjectColumnRow(p.id, p.title, p.deadline, "
+            + "CAST(p.expectedRevenue * 100 AS Long), p.status, p.partitionKey) FROM Project p "
+            + "WHERE p.partitionKey = :partitionKey")
+    List<ProjectColumnRow> findColumnRowsByPartitionKey(String partitionKey);
+
+    @Query("SELECT DISTINCT p.partitionKey FROM Project p WHERE p.status = :status")
+    List<String> findPartitionKeysByStatus(Project.ProjectStatus status);
+
     @Query("SELECT p FROM Project p WHERE p.status = 'COMPLETED' AND p.completedAt >= :since")
     List<Project> findCompletedSince(java.time.LocalDateTime since);
 
+    @Query("SELECT p FROM Project p WHERE p.partitionKey = :partitionKey AND p.status = 'COMPLETED' AND p.completedAt >= :since")
+    List<Project> findCompletedSinceInPartition(String partitionKey, java.time.LocalDateTime since);
+
     @Query("SELECT p FROM Project p WHERE p.status = 'COMPLETED' AND p.completedAt BETWEEN :start AND :end")
     List<Project> findCompletedBetween(java.time.LocalDateTime start, java.time.LocalDateTime end);
+
+    // Title search. Both modes lower-case the term in SQL exactly as the indexes do, and page by an
+    // (afterTitle, afterId) keyset taken from the last row of the previous page. Status narrows the index
+    // scan; maxDeadline and partition are checked on the rows the scan returns.
+
+    // Titles in [lower(query), lower(query) || U+10FFFF) in (lower(title), id) order, via idx_projects_title_prefix
+    @Query(value = "SELECT p.* FROM projects p "
+            + "WHERE lower(p.title) COLLATE \"C\" >= lower(CAST(:query AS text)) "
+            + "AND lower(p.title) COLLATE \"C\" < lower(CAST(:query AS text)) || chr(1114111) "
+            + "AND (lower(p.title) COLLATE \"C\", p.id) > (lower(CAST(:afterTitle AS text)), :afterId) "
+            + "AND (CAST(:maxDeadline AS integer) IS NULL OR p.deadline <= CAST(:maxDeadline AS integer)) "
+            + "AND (CAST(:partition AS text) IS NULL OR p.partition_key = CAST(:partition AS text)) "
+            + "ORDER BY lower(p.title) COLLATE \"C\", p.id "
+            + "LIMIT :limit", nativeQuery = true)
+    List<Project> searchByTitlePrefix(String query, String afterTitle, long afterId, Integer maxDeadline,
+            String partition, int limit);
+
+    // Same as searchByTitlePrefix within one status, via idx_projects_status_title_prefix
+    @Query(value = "SELECT p.* FROM projects p "
+            + "WHERE p.status = :status "
+            + "AND lower(p.title) COLLATE \"C\" >= lower(CAST(:query AS text)) "
+            + "AND lower(p.title) COLLATE \"C\" < lower(CAST(:query AS text)) || chr(1114111) "
+            + "AND (lower(p.title) COLLATE \"C\", p.id) > (lower(CAST(:afterTitle AS text)), :afterId) "
+            + "AND (CAST(:maxDeadline AS integer) IS NULL OR p.deadline <= CAST(:maxDeadline AS integer)) "
+            + "AND (CAST(:partition AS text) IS NULL OR p.partition_key = CAST(:partition AS text)) "
+            + "ORDER BY lower(p.title) COLLATE \"C\", p.id "
+            + "LIMIT :limit", nativeQuery = true)
+    List<Project> searchByTitlePrefixAndStatus(String query, String status, String afterTitle, long afterId,
+            Integer maxDeadline, String partition, int limit);
+
+    // Nearest trigram matches first; idx_projects_status_title_trgm finds the % candidates, which are then sorted
+    @Query(value = "SELECT p.* FROM projects p "
+            + "WHERE lower(p.title) % lower(CAST(:query AS text)) "
+            + "AND (CAST(:afterTitle AS text) IS NULL "
+            + "OR lower(p.title) <-> lower(CAST(:query AS text)) > lower(CAST(:afterTitle AS text)) <-> lower(CAST(:query AS text)) "
+            + "OR (lower(p.title) <-> lower(CAST(:query AS text)) = lower(CAST(:afterTitle AS text)) <-> lower(CAST(:query AS text)) "
+            + "AND p.id > :afterId)) "
+            + "AND (CAST(:maxDeadline AS integer) IS NULL OR p.deadline <= CAST(:maxDeadline AS integer)) "
+            + "AND (CAST(:partition AS text) IS NULL OR p.partition_key = CAST(:partition AS text)) "
+            + "ORDER BY lower(p.title) <-> lower(CAST(:query AS text)), p.id "
+            + "LIMIT :limit", nativeQuery = true)
+    List<Project> searchByTitleSimilarity(String query, String afterTitle, long afterId, Integer maxDeadline,
+            String partition, int limit);
+
+    // Same as searchByTitleSimilarity within one status
+    @Query(value = "SELECT p.* FROM projects p "
+            + "WHERE p.status = :status "
+            + "AND lower(p.title) % lower(CAST(:query AS text)) "
+            + "AND (CAST(:afterTitle AS text) IS NULL "
+            + "OR lower(p.title) <-> lower(CAST(:query AS text)) > lower(CAST(:afterTitle AS text)) <-> lower(CAST(:query AS text)) "
+            + "OR (lower(p.title) <-> lower(CAST(:query AS text)) = lower(CAST(:afterTitle AS text)) <-> lower(CAST(:query AS text)) "
+            + "AND p.id > :afterId)) "
+            + "AND (CAST(:maxDeadline AS integer) IS NULL OR p.deadline <= CAST(:maxDeadline AS integer)) "
+            + "AND (CAST(:partition AS text) IS NULL OR p.partition_key = CAST(:partition AS text)) "
+            + "ORDER BY lower(p.title) <-> lower(CAST(:query AS text)), p.id "
+            + "LIMIT :limit", nativeQuery = true)
+    List<Project> searchByTitleSimilarityAndStatus(String query, String status, String afterTitle, long afterId,
+            Integer maxDeadline, String partition, int limit);
+
+    record ProjectColumnRow(Long id, String title, Integer deadline, Long revenueCents,
+            Project.ProjectStatus status, String partitionKey) {
+    }
 }
@@ -5,40 +5,127 @@ import com.optima.entity.Project;
 import com.optima.repository.ProjectRepository;
 import com.optima.strategy.SchedulingStrategy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SchedulingService {
 
+        private static final int MAX_SEARCH_RESULTS = 100;
+
         private final ProjectRepository projectRepository;
         private final Map<String, SchedulingStrategy> strategies;
-        private String currentStrategy = "greedy";
+        @Qualifier("applicationTaskExecutor")
+        private final Executor partitionExecutor;
+        private final TransactionTemplate transactionTemplate;
+
+        // Partitions without an explicit entry fall back to the default partition's settings
+        private final Map<String, PartitionSettings> partitionSettings = new ConcurrentHashMap<>(
+                        Map.of(Project.DEFAULT_PARTITION,
+                                        new PartitionSettings("greedy", SchedulingStrategy.DEFAULT_HORIZON)));
+
+        private record PartitionSettings(String strategyKey, int horizon) {
+        }
 
-        public List<ProjectDTO> getAllProjects() {
-                return projectRepository.findAll().stream()
+        public List<ProjectDTO> getAllProjects(String partition) {
+                return findProjects(partition).stream()
                                 .map(this::convertToDTO)
                                 .collect(Collectors.toList());
         }
 
+        public ProjectColumnsDTO getProjectColumns(String partition) {
+                List<ProjectRepository.ProjectColumnRow> rows = partition == null
+                                ? projectRepository.findColumnRows()
+                                : projectRepository.findColumnRowsByPartitionKey(resolvePartition(partition));
+                int size = rows.size();
+                long[] ids = new long[size];
+                String[] titles = new String[size];
+                int[] deadlines = new int[size];
+                long[] revenueCents = new long[size];
+                String[] statuses = new String[size];
+                String[] partitions = new String[size];
+
+                for (int i = 0; i < size; i++) {
+                        ProjectRepository.ProjectColumnRow row = rows.get(i);
+                        ids[i] = row.id();
+                        titles[i] = row.title();
+                        deadlines[i] = row.deadline();
+                        revenueCents[i] = row.revenueCents();
+                        statuses[i] = row.status().name();
+                        partitions[i] = row.partitionKey();
+                }
+                return new ProjectColumnsDTO(ids, titles, deadlines, revenueCents, statuses, partitions);
+        }
+
         public ProjectDTO getProjectById(Long id) {
                 return projectRepository.findById(id)
                                 .map(this::convertToDTO)
                                 .orElseThrow(() -> new RuntimeException("Project not found: " + id));
         }
 
+        // mode "prefix" pages titles alphabetically; "fuzzy" ranks by trigram distance to tolerate typos
+        public ProjectSearchResponseDTO searchProjects(String query, String mode, String status, Integer maxDeadline,
+                        String partition, String cursor, int limit) {
+                if (!"prefix".equals(mode) && !"fuzzy".equals(mode)) {
+                        throw new IllegalArgumentException("Unknown search mode: " + mode);
+                }
+                String statusFilter = parseStatus(status);
+                SearchCursor after = cursor == null ? null : decodeCursor(cursor);
+                String partitionFilter = partition == null ? null : resolvePartition(partition);
+                int pageSize = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+                String term = query == null ? "" : query.trim();
+                long afterId = after != null ? after.id() : 0L;
+
+                List<Project> page;
+                if ("prefix".equals(mode)) {
+                        // Starting the keyset at the term itself lets the index scan begin at the prefix range
+                        String afterTitle = after != null ? after.title() : term;
+                        page = statusFilter == null
+                                        ? projectRepository.searchByTitlePrefix(term, afterTitle, afterId,
+                                                        maxDeadline, partitionFilter, pageSize)
+                                        : projectRepository.searchByTitlePrefixAndStatus(term, statusFilter,
+                                                        afterTitle, afterId, maxDeadline, partitionFilter, pageSize);
+                } else {
+                        String afterTitle = after != null ? after.title() : null;
+                        page = statusFilter == null
+                                        ? projectRepository.searchByTitleSimilarity(term, afterTitle, afterId,
+                                                        maxDeadline, partitionFilter, pageSize)
+                                        : projectRepository.searchByTitleSimilarityAndStatus(term, statusFilter,
+                                                        afterTitle, afterId, maxDeadline, partitionFilter, pageSize);
+                }
+
+                String nextCursor = null;
+                if (page.size() == pageSize) {
+                        Project last = page.get(page.size() - 1);
+                        nextCursor = encodeCursor(last.getTitle(), last.getId());
+                }
+                return new ProjectSearchResponseDTO(
+                                page.stream().map(this::convertToDTO).collect(Collectors.toList()),
+                                nextCursor);
+        }
+
         @Transactional
         public ProjectDTO createProject(ProjectDTO projectDTO) {
                 Project project = Project.builder()
                                 .title(projectDTO.title())
                                 .deadline(projectDTO.deadline())
                                 .expectedRevenue(projectDTO.expectedRevenue())
+                                .partitionKey(resolvePartition(projectDTO.partition()))
                                 .status(Project.ProjectStatus.PENDING)
                                 .build();
                 return convertToDTO(projectRepository.save(project));
@@ -51,6 +138,9 @@ public class SchedulingService {
                 project.setTitle(projectDTO.title());
                 project.setDeadline(projectDTO.deadline());
                 project.setExpectedRevenue(projectDTO.expectedRevenue());
+                if (projectDTO.partition() != null) {
+                        project.setPartitionKey(resolvePartition(projectDTO.partition()));
+                }
                 return convertToDTO(projectRepository.save(project));
         }
 
@@ -59,63 +149,111 @@ public class SchedulingService {
                 projectRepository.deleteById(id);
         }
 
-        public void setStrategy(String strategyName) {
+        public void setStrategy(String partition, String strategyName) {
                 if (strategies.containsKey(strategyName)) {
-                        this.currentStrategy = strategyName;
+                        partitionSettings.compute(resolvePartition(partition),
+                                        (key, current) -> new PartitionSettings(strategyName,
+                                                        (current != null ? current : settingsFor(key)).horizon()));
                 }
         }
 
-        public String getCurrentStrategyName() {
-                return strategies.get(currentStrategy).getName();
+        public String getCurrentStrategyName(String partition) {
+                return strategies.get(settingsFor(resolvePartition(partition)).strategyKey()).getName();
         }
 
-        public WeeklyScheduleResponseDTO generateWeeklySchedule() {
-                List<Project> pendingProjects = projectRepository.findByStatus(Project.ProjectStatus.PENDING);
-                SchedulingStrategy strategy = strategies.get(currentStrategy);
-                Map<Integer, Project> schedule = strategy.schedule(pendingProjects);
+        public void setHorizon(String partition, int horizon) {
+                if (horizon < 1 || horizon > 365) {
+                        throw new IllegalArgumentException("Horizon must be between 1 and 365 days: " + horizon);
+                }
+                partitionSettings.compute(resolvePartition(partition),
+                                (key, current) -> new PartitionSettings(
+                                                (current != null ? current : settingsFor(key)).strategyKey(),
+                                                horizon));
+        }
 
-                BigDecimal totalRevenue = schedule.values().stream()
-                                .map(Project::getExpectedRevenue)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        public PartitionSettingsDTO getPartitionSettings(String partition) {
+                String key = resolvePartition(partition);
+                PartitionSettings settings = settingsFor(key);
+                return new PartitionSettingsDTO(key, settings.strategyKey(),
+                                strategies.get(settings.strategyKey()).getName(), settings.horizon());
+        }
 
-                Map<Integer, ProjectDTO> scheduleDTO = schedule.entrySet().stream()
-                                .collect(Collectors.toMap(
-                                                Map.Entry::getKey,
-                                                e -> convertToDTO(e.getValue())));
+        public WeeklyScheduleResponseDTO generateWeeklySchedule(String partition) {
+                String key = resolvePartition(partition);
+                List<Project> pendingProjects = projectRepository.findByPartitionKeyAndStatus(key,
+                                Project.ProjectStatus.PENDING);
+                return toScheduleDTO(key, computeSchedule(key, pendingProjects));
+        }
 
-                return new WeeklyScheduleResponseDTO(scheduleDTO, totalRevenue, schedule.size());
+        // Partitions are independent, so each one is solved on its own worker thread
+        public Map<String, WeeklyScheduleResponseDTO> generateAllSchedules() {
+                Map<String, CompletableFuture<WeeklyScheduleResponseDTO>> futures = new TreeMap<>();
+                for (String key : projectRepository.findPartitionKeysByStatus(Project.ProjectStatus.PENDING)) {
+                        futures.put(key, CompletableFuture.supplyAsync(() -> generateWeeklySchedule(key),
+                                        partitionExecutor));
+                }
+
+                Map<String, WeeklyScheduleResponseDTO> result = new LinkedHashMap<>();
+                futures.forEach((key, future) -> result.put(key, future.join()));
+                return result;
         }
 
-        @Transactional
-        public void executeCurrentSchedule() {
-                WeeklyScheduleResponseDTO schedule = generateWeeklySchedule();
-                LocalDateTime now = LocalDateTime.now();
-                Set<Long> scheduledIds = schedule.schedule().values().stream()
-                                .map(ProjectDTO::id)
-                                .collect(Collectors.toSet());
-
-                // Fetch all currently PENDING projects
-                List<Project> pendingProjects = projectRepository.findByStatus(Project.ProjectStatus.PENDING);
-
-                for (Project project : pendingProjects) {
-                        if (scheduledIds.contains(project.getId())) {
-                                project.setStatus(Project.ProjectStatus.COMPLETED);
-                        } else {
-                                project.setStatus(Project.ProjectStatus.NOT_COMPLETED);
-                        }
-                        // Set the timestamp for when this decision/process happened
-                        project.setCompletedAt(now);
-                        projectRepository.save(project);
+        public void executeCurrentSchedule(String partition) {
+                executePartition(resolvePartition(partition));
+        }
+
+        // Every partition runs in parallel in its own transaction, so one failure doesn't roll back the others
+        public PartitionExecutionResultDTO executeAllSchedules() {
+                Map<String, CompletableFuture<Void>> futures = new TreeMap<>();
+                for (String key : projectRepository.findPartitionKeysByStatus(Project.ProjectStatus.PENDING)) {
+                        futures.put(key, CompletableFuture.runAsync(() -> executePartition(key), partitionExecutor));
                 }
+
+                List<String> succeeded = new ArrayList<>();
+                Map<String, String> failed = new LinkedHashMap<>();
+                futures.forEach((key, future) -> {
+                        try {
+                                future.join();
+                                succeeded.add(key);
+                        } catch (CompletionException e) {
+                                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                                failed.put(key, cause.getMessage() != null ? cause.getMessage()
+                                                : cause.getClass().getSimpleName());
+                        }
+                });
+                return new PartitionExecutionResultDTO(succeeded, failed);
+        }
+
+        private void executePartition(String key) {
+                transactionTemplate.executeWithoutResult(status -> {
+                        List<Project> pendingProjects = projectRepository.findByPartitionKeyAndStatus(key,
+                                        Project.ProjectStatus.PENDING);
+                        Set<Long> scheduledIds = computeSchedule(key, pendingProjects).values().stream()
+                                        .map(Project::getId)
+                                        .collect(Collectors.toSet());
+                        LocalDateTime now = LocalDateTime.now();
+
+                        for (Project project : pendingProjects) {
+                                if (scheduledIds.contains(project.getId())) {
+                                        project.setStatus(Project.ProjectStatus.COMPLETED);
+                                } else {
+                                        project.setStatus(Project.ProjectStatus.NOT_COMPLETED);
+                                }
+                                // Set the timestamp for when this decision/process happened
+                                project.setCompletedAt(now);
+                        }
+                        projectRepository.saveAll(pendingProjects);
+                });
         }
 
-        public DashboardDTO getDashboardStats() {
+        // Stats and analytics cover all partitions unless one is given
+        public DashboardDTO getDashboardStats(String partition) {
                 LocalDateTime now = LocalDateTime.now();
                 LocalDateTime weekStart = now.minusDays(7);
                 LocalDateTime monthStart = now.minusDays(30);
 
-                List<Project> weeklyProjects = projectRepository.findCompletedSince(weekStart);
-                List<Project> monthlyProjects = projectRepository.findCompletedSince(monthStart);
+                List<Project> weeklyProjects = findCompletedSince(partition, weekStart);
+                List<Project> monthlyProjects = findCompletedSince(partition, monthStart);
 
                 BigDecimal weeklyRev = weeklyProjects.stream()
                                 .map(Project::getExpectedRevenue)
@@ -128,30 +266,46 @@ public class SchedulingService {
                 return new DashboardDTO(weeklyRev, monthlyRev, monthlyProjects.size(), weeklyProjects.size());
         }
 
-        public List<Map<String, Object>> getAnalyticsData() {
-                LocalDateTime now = LocalDateTime.now();
-                LocalDateTime thirtyDaysAgo = now.minusDays(30);
-                List<Project> projects = projectRepository.findCompletedSince(thirtyDaysAgo);
-
-                Map<String, BigDecimal> dailyRevenue = projects.stream()
-                                .collect(Collectors.groupingBy(
-                                                p -> p.getCompletedAt().toLocalDate().toString(),
-                                                Collectors.reducing(BigDecimal.ZERO, Project::getExpectedRevenue,
-                                                                BigDecimal::add)));
-
-                return dailyRevenue.entrySet().stream()
-                                .sorted(Map.Entry.comparingByKey())
+        public List<Map<String, Object>> getAnalyticsData(String partition) {
+                return getDailyRevenue(partition).entrySet().stream()
                                 .map(e -> {
                                         Map<String, Object> map = new HashMap<>();
-                                        map.put("date", e.getKey());
+                                        map.put("date", e.getKey().toString());
                                         map.put("revenue", e.getValue());
                                         return map;
                                 })
                                 .collect(Collectors.toList());
         }
 
-        public PredictionResponseDTO getPredictions() {
-                List<Project> pendingProjects = projectRepository.findByStatus(Project.ProjectStatus.PENDING);
+        public AnalyticsColumnsDTO getAnalyticsColumns(String partition) {
+                SortedMap<LocalDate, BigDecimal> dailyRevenue = getDailyRevenue(partition);
+                String[] dates = new String[dailyRevenue.size()];
+                long[] revenueCents = new long[dailyRevenue.size()];
+
+                int i = 0;
+                for (Map.Entry<LocalDate, BigDecimal> entry : dailyRevenue.entrySet()) {
+                        dates[i] = entry.getKey().toString();
+                        revenueCents[i] = toCents(entry.getValue());
+                        i++;
+                }
+                return new AnalyticsColumnsDTO(dates, revenueCents);
+        }
+
+        private SortedMap<LocalDate, BigDecimal> getDailyRevenue(String partition) {
+                LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
+                return findCompletedSince(partition, thirtyDaysAgo).stream()
+                                .collect(Collectors.groupingBy(
+                                                p -> p.getCompletedAt().toLocalDate(),
+                                                TreeMap::new,
+                                                Collectors.reducing(BigDecimal.ZERO, Project::getExpectedRevenue,
+                                                                BigDecimal::add)));
+        }
+
+        public PredictionResponseDTO getPredictions(String partition) {
+                String partitionKey = resolvePartition(partition);
+                int horizon = settingsFor(partitionKey).horizon();
+                List<Project> pendingProjects = projectRepository.findByPartitionKeyAndStatus(partitionKey,
+                                Project.ProjectStatus.PENDING);
                 List<StrategyPredictionDTO> predictions = new ArrayList<>();
                 String bestKey = null;
                 BigDecimal maxRev = BigDecimal.valueOf(-1);
@@ -159,7 +313,7 @@ public class SchedulingService {
                 for (Map.Entry<String, SchedulingStrategy> entry : strategies.entrySet()) {
                         String key = entry.getKey();
                         SchedulingStrategy strategy = entry.getValue();
-                        Map<Integer, Project> simSchedule = strategy.schedule(pendingProjects);
+                        Map<Integer, Project> simSchedule = strategy.schedule(pendingProjects, horizon);
 
                         BigDecimal rev = simSchedule.values().stream()
                                         .map(Project::getExpectedRevenue)
@@ -176,12 +330,92 @@ public class SchedulingService {
                 return new PredictionResponseDTO(predictions, bestKey);
         }
 
+        private Map<Integer, Project> computeSchedule(String key, List<Project> pendingProjects) {
+                PartitionSettings settings = settingsFor(key);
+                return strategies.get(settings.strategyKey()).schedule(pendingProjects, settings.horizon());
+        }
+
+        private WeeklyScheduleResponseDTO toScheduleDTO(String key, Map<Integer, Project> schedule) {
+                BigDecimal totalRevenue = schedule.values().stream()
+                                .map(Project::getExpectedRevenue)
+                                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+                Map<Integer, ProjectDTO> scheduleDTO = schedule.entrySet().stream()
+                                .collect(Collectors.toMap(
+                                                Map.Entry::getKey,
+                                                e -> convertToDTO(e.getValue())));
+
+                return new WeeklyScheduleResponseDTO(scheduleDTO, totalRevenue, schedule.size(), key);
+        }
+
+        private List<Project> findProjects(String partition) {
+                return partition == null
+                                ? projectRepository.findAll()
+                                : projectRepository.findByPartitionKey(resolvePartition(partition));
+        }
+
+        static String parseStatus(String status) {
+                if (status == null) {
+                        return null;
+                }
+                try {
+                        return Project.ProjectStatus.valueOf(status.toUpperCase(Locale.ROOT)).name();
+                } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unknown project status: " + status);
+                }
+        }
+
+        // The cursor carries the raw title of the last row; the queries lower-case it and, in fuzzy mode,
+        // recompute its distance, so keyset keys always match what the database compares
+        record SearchCursor(String title, long id) {
+        }
+
+        static String encodeCursor(String title, Long id) {
+                return Base64.getUrlEncoder().withoutPadding()
+                                .encodeToString((title + "\n" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SearchCursor decodeCursor(String cursor) {
+                try {
+                        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                        int separator = decoded.lastIndexOf('\n');
+                        if (separator < 0) {
+                                throw new IllegalArgumentException("Invalid search cursor");
+                        }
+                        return new SearchCursor(decoded.substring(0, separator),
+                                        Long.parseLong(decoded.substring(separator + 1)));
+                } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Invalid search cursor");
+                }
+        }
+
+        private List<Project> findCompletedSince(String partition, LocalDateTime since) {
+                return partition == null
+                                ? projectRepository.findCompletedSince(since)
+                                : projectRepository.findCompletedSinceInPartition(resolvePartition(partition), since);
+        }
+
+        // expected_revenue is NUMERIC(12, 2), so any stored amount fits in a long of cents
+        static long toCents(BigDecimal amount) {
+                return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+
+        private PartitionSettings settingsFor(String key) {
+                PartitionSettings settings = partitionSettings.get(key);
+                return settings != null ? settings : partitionSettings.get(Project.DEFAULT_PARTITION);
+        }
+
+        private String resolvePartition(String partition) {
+                return partition == null || partition.isBlank() ? Project.DEFAULT_PARTITION : partition.trim();
+        }
+
         private ProjectDTO convertToDTO(Project project) {
                 return new ProjectDTO(
                                 project.getId(),
                                 project.getTitle(),
                                 project.getDeadline(),
                                 project.getExpectedRevenue(),
+                                project.getPartitionKey(),
                                 project.getStatus().name(),
                                 project.getCreatedAt() != null ? project.getCreatedAt().toString() : null,
                                 project.getCompletedAt() != null ? project.getCompletedAt().toString() : null);
@@ -5,7 +5,13 @@ import org.springframework.stereotype.Component;
 import java.util.*;
 
 public interface SchedulingStrategy {
-    Map<Integer, Project> schedule(List<Project> projects);
+    int DEFAULT_HORIZON = 5; // working days per schedule; at most one project per day
+
+    Map<Integer, Project> schedule(List<Project> projects, int horizon);
+
+    default Map<Integer, Project> schedule(List<Project> projects) {
+        return schedule(projects, DEFAULT_HORIZON);
+    }
 
     String getName();
 }
@@ -13,7 +19,7 @@ public interface SchedulingStrategy {
 @Component("fcfs")
 class FcfsSchedulingStrategy implements SchedulingStrategy {
     @Override
-    public Map<Integer, Project> schedule(List<Project> projects) {
+    public Map<Integer, Project> schedule(List<Project> projects, int horizon) {
         List<Project> sorted = new ArrayList<>(projects);
         sorted.sort(Comparator.comparing(Project::getId));
         Map<Integer, Project> result = new LinkedHashMap<>();
@@ -23,7 +29,7 @@ class FcfsSchedulingStrategy implements SchedulingStrategy {
                 result.put(day, p);
                 day++;
             }
-            if (result.size() >= 5)
+            if (result.size() >= horizon)
                 break;
         }
         return result;
@@ -38,7 +44,7 @@ class FcfsSchedulingStrategy implements SchedulingStrategy {
 @Component("edf")
 class EdfSchedulingStrategy implements SchedulingStrategy {
     @Override
-    public Map<Integer, Project> schedule(List<Project> projects) {
+    public Map<Integer, Project> schedule(List<Project> projects, int horizon) {
         List<Project> sorted = new ArrayList<>(projects);
         sorted.sort(Comparator.comparing(Project::getDeadline));
         Map<Integer, Project> result = new LinkedHashMap<>();
@@ -48,7 +54,7 @@ class EdfSchedulingStrategy implements SchedulingStrategy {
                 result.put(day, p);
                 day++;
             }
-            if (result.size() >= 5)
+            if (result.size() >= horizon)
                 break;
         }
         return result;
@@ -63,7 +69,7 @@ class EdfSchedulingStrategy implements SchedulingStrategy {
 @Component("priority")
 class MaxRevenueSchedulingStrategy implements SchedulingStrategy {
     @Override
-    public Map<Integer, Project> schedule(List<Project> projects) {
+    public Map<Integer, Project> schedule(List<Project> projects, int horizon) {
         List<Project> sorted = new ArrayList<>(projects);
         sorted.sort(Comparator.comparing(Project::getExpectedRevenue).reversed());
         Map<Integer, Project> result = new LinkedHashMap<>();
@@ -73,7 +79,7 @@ class MaxRevenueSchedulingStrategy implements SchedulingStrategy {
                 result.put(day, p);
                 day++;
             }
-            if (result.size() >= 5)
+            if (result.size() >= horizon)
                 break;
         }
         return result;
@@ -88,7 +94,7 @@ class MaxRevenueSchedulingStrategy implements SchedulingStrategy {
 @Component("greedy")
 class GreedySchedulingStrategy implements SchedulingStrategy {
     @Override
-    public Map<Integer, Project> schedule(List<Project> projects) {
+    public Map<Integer, Project> schedule(List<Project> projects, int horizon) {
         if (projects.isEmpty())
             return new HashMap<>();
         List<Project> sorted = new ArrayList<>(projects);
@@ -96,14 +102,14 @@ class GreedySchedulingStrategy implements SchedulingStrategy {
         Map<Integer, Project> result = new HashMap<>();
         Set<Integer> occupiedSlots = new HashSet<>();
         for (Project p : sorted) {
-            for (int day = p.getDeadline(); day >= 1; day--) {
+            for (int day = Math.min(p.getDeadline(), horizon); day >= 1; day--) {
                 if (!occupiedSlots.contains(day)) {
                     occupiedSlots.add(day);
                     result.put(day, p);
                     break;
                 }
             }
-            if (result.size() >= 5)
+            if (result.size() >= horizon)
                 break;
         }
         return result;
@@ -0,0 +1,11 @@
+-- Title search indexes (runs after Hibernate has created/updated the projects table)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- Prefix search: byte-ordered so range scans and keyset paging work with bind parameters
+CREATE INDEX IF NOT EXISTS idx_projects_title_prefix ON projects ((lower(title) COLLATE "C"), id);
+CREATE INDEX IF NOT EXISTS idx_projects_status_title_prefix ON projects (status, (lower(title) COLLATE "C"), id);
+
+-- Typo-tolerant search: trigram GIN serves the % filter with or without a status condition
+DROP INDEX IF EXISTS idx_projects_title_trgm;
+CREATE INDEX IF NOT EXISTS idx_projects_status_title_trgm ON projects USING gin (status, lower(title) gin_trgm_ops);
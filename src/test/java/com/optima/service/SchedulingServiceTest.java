@@ -0,0 +1,236 @@
+package com.optima.service;
+
+import com.optima.dto.AppDtos.PartitionExecutionResultDTO;
+import com.optima.dto.AppDtos.ProjectColumnsDTO;
+import com.optima.dto.AppDtos.ProjectSearchResponseDTO;
+import com.optima.entity.Project;
+import com.optima.exception.GlobalExceptionHandler;
+import com.optima.repository.ProjectRepository;
+import com.optima.strategy.SchedulingStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SchedulingServiceTest {
+
+    private ProjectRepository repository;
+    private SchedulingService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProjectRepository.class);
+        service = new SchedulingService(repository,
+                Map.of("greedy", new FirstDaysStrategy("Greedy"), "edf", new FirstDaysStrategy("EDF")),
+                Runnable::run, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void testPartitionSettingsAreIndependent() {
+        service.setStrategy("alpha", "edf");
+        service.setHorizon("beta", 3);
+
+        assertEquals("edf", service.getPartitionSettings("alpha").strategyKey());
+        assertEquals(SchedulingStrategy.DEFAULT_HORIZON, service.getPartitionSettings("alpha").horizon());
+        assertEquals("greedy", service.getPartitionSettings("beta").strategyKey());
+        assertEquals(3, service.getPartitionSettings("beta").horizon());
+        assertEquals("greedy", service.getPartitionSettings(null).strategyKey());
+        assertEquals(SchedulingStrategy.DEFAULT_HORIZON, service.getPartitionSettings(null).horizon());
+    }
+
+    @Test
+    void testPartitionWithoutSettingsFallsBackToDefault() {
+        service.setStrategy(null, "edf");
+        service.setHorizon(Project.DEFAULT_PARTITION, 2);
+
+        assertEquals("edf", service.getPartitionSettings("gamma").strategyKey());
+        assertEquals(2, service.getPartitionSettings("gamma").horizon());
+        assertEquals("EDF", service.getCurrentStrategyName("gamma"));
+    }
+
+    @Test
+    void testSetHorizonRejectsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> service.setHorizon("alpha", 0));
+        assertThrows(IllegalArgumentException.class, () -> service.setHorizon("alpha", 366));
+    }
+
+    @Test
+    void testExecuteAllSchedulesReportsFailedPartitions() {
+        Project beta = pending(2L, "beta");
+        when(repository.findPartitionKeysByStatus(Project.ProjectStatus.PENDING))
+                .thenReturn(Arrays.asList("alpha", "beta"));
+        when(repository.findByPartitionKeyAndStatus("alpha", Project.ProjectStatus.PENDING))
+                .thenThrow(new IllegalStateException("alpha is down"));
+        when(repository.findByPartitionKeyAndStatus("beta", Project.ProjectStatus.PENDING))
+                .thenReturn(List.of(beta));
+
+        PartitionExecutionResultDTO result = service.executeAllSchedules();
+
+        assertEquals(List.of("beta"), result.succeeded());
+        assertEquals(Map.of("alpha", "alpha is down"), result.failed());
+        assertEquals(Project.ProjectStatus.COMPLETED, beta.getStatus());
+    }
+
+    @Test
+    void testExecuteWithoutPartitionOnlyTouchesDefault() {
+        Project project = pending(1L, Project.DEFAULT_PARTITION);
+        when(repository.findByPartitionKeyAndStatus(Project.DEFAULT_PARTITION, Project.ProjectStatus.PENDING))
+                .thenReturn(List.of(project));
+
+        service.executeCurrentSchedule(null);
+
+        assertEquals(Project.ProjectStatus.COMPLETED, project.getStatus());
+        verify(repository, never()).findPartitionKeysByStatus(any());
+        verify(repository, never()).findByPartitionKeyAndStatus(
+                argThat(key -> !Project.DEFAULT_PARTITION.equals(key)), eq(Project.ProjectStatus.PENDING));
+    }
+
+    @Test
+    void testToCentsKeepsTwoDecimalPlaces() {
+        assertEquals(123456L, SchedulingService.toCents(new BigDecimal("1234.56")));
+        assertEquals(500000L, SchedulingService.toCents(new BigDecimal("5000")));
+    }
+
+    @Test
+    void testToCentsRoundsHalfUp() {
+        assertEquals(1001L, SchedulingService.toCents(new BigDecimal("10.005")));
+        assertEquals(1000L, SchedulingService.toCents(new BigDecimal("10.004")));
+    }
+
+    @Test
+    void testProjectColumnsLineUpByRow() {
+        when(repository.findColumnRows()).thenReturn(Arrays.asList(
+                new ProjectRepository.ProjectColumnRow(7L, "P1", 3, 10025L, Project.ProjectStatus.PENDING, "alpha"),
+                new ProjectRepository.ProjectColumnRow(9L, "P2", 12, 5000L, Project.ProjectStatus.COMPLETED,
+                        Project.DEFAULT_PARTITION)));
+
+        ProjectColumnsDTO columns = service.getProjectColumns(null);
+
+        assertArrayEquals(new long[] { 7L, 9L }, columns.ids());
+        assertArrayEquals(new String[] { "P1", "P2" }, columns.titles());
+        assertArrayEquals(new int[] { 3, 12 }, columns.deadlines());
+        assertArrayEquals(new long[] { 10025L, 5000L }, columns.expectedRevenueCents());
+        assertArrayEquals(new String[] { "PENDING", "COMPLETED" }, columns.statuses());
+        assertArrayEquals(new String[] { "alpha", Project.DEFAULT_PARTITION }, columns.partitions());
+    }
+
+    @Test
+    void testProjectColumnsFilterByPartition() {
+        when(repository.findColumnRowsByPartitionKey("alpha")).thenReturn(List.of(
+                new ProjectRepository.ProjectColumnRow(7L, "P1", 3, 10025L, Project.ProjectStatus.PENDING, "alpha")));
+
+        assertArrayEquals(new long[] { 7L }, service.getProjectColumns(" alpha ").ids());
+        verify(repository, never()).findColumnRows();
+    }
+
+    @Test
+    void testCursorRoundTrip() {
+        String cursor = SchedulingService.encodeCursor("İstanbul\nCRM | v2", 42L);
+        SchedulingService.SearchCursor decoded = SchedulingService.decodeCursor(cursor);
+
+        assertEquals("İstanbul\nCRM | v2", decoded.title());
+        assertEquals(42L, decoded.id());
+    }
+
+    @Test
+    void testMalformedCursorIsBadRequest() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> SchedulingService.decodeCursor("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> SchedulingService.decodeCursor(encode("no separator")));
+        assertThrows(IllegalArgumentException.class, () -> SchedulingService.decodeCursor(encode("title\nabc")));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.searchProjects("crm", "prefix", null, null, null, "not a cursor!", 20));
+
+        assertEquals(400, new GlobalExceptionHandler().handleIllegalArgumentException(ex).getStatusCode().value());
+    }
+
+    @Test
+    void testPrefixSearchPagesFromLastTitle() {
+        Project first = pending(3L, Project.DEFAULT_PARTITION);
+        Project second = pending(8L, Project.DEFAULT_PARTITION);
+        when(repository.searchByTitlePrefix("crm", "crm", 0L, null, null, 2)).thenReturn(List.of(first, second));
+
+        ProjectSearchResponseDTO page = service.searchProjects(" crm ", "prefix", null, null, null, null, 2);
+
+        assertEquals(2, page.results().size());
+        SchedulingService.SearchCursor next = SchedulingService.decodeCursor(page.nextCursor());
+        assertEquals(second.getTitle(), next.title());
+        assertEquals(8L, next.id());
+    }
+
+    @Test
+    void testStatusFilterUsesStatusQueries() {
+        String cursor = SchedulingService.encodeCursor("CRM", 5L);
+        when(repository.searchByTitleSimilarityAndStatus("crn", "PENDING", "CRM", 5L, 10, "alpha", 20))
+                .thenReturn(List.of(pending(6L, "alpha")));
+
+        ProjectSearchResponseDTO page = service.searchProjects("crn", "fuzzy", "pending", 10, "alpha", cursor, 20);
+
+        assertEquals(1, page.results().size());
+        assertNull(page.nextCursor());
+        verify(repository, never()).searchByTitleSimilarity(any(), any(), anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testSearchRejectsUnknownModeAndStatus() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.searchProjects("crm", "exact", null, null, null, null, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.searchProjects("crm", "prefix", "ARCHIVED", null, null, null, 20));
+        assertEquals("COMPLETED", SchedulingService.parseStatus("completed"));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Project pending(Long id, String partition) {
+        return Project.builder().id(id).title("P" + id).deadline(5).expectedRevenue(new BigDecimal("100"))
+                .partitionKey(partition).build();
+    }
+
+    // Places projects on consecutive days in list order, up to the horizon
+    private static class FirstDaysStrategy implements SchedulingStrategy {
+        private final String name;
+
+        FirstDaysStrategy(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Map<Integer, Project> schedule(List<Project> projects, int horizon) {
+            Map<Integer, Project> result = new LinkedHashMap<>();
+            for (int i = 0; i < projects.size() && i < horizon; i++) {
+                result.put(i + 1, projects.get(i));
+            }
+            return result;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -46,4 +46,18 @@ public class SchedulingLogicTest {
         assertEquals("P1", schedule.get(1).getTitle());
         assertEquals("P2", schedule.get(5).getTitle());
     }
+
+    @Test
+    void testHorizonLimitsScheduledDays() {
+        Project p1 = Project.builder().id(1L).title("P1").deadline(3).expectedRevenue(new BigDecimal("300")).build();
+        Project p2 = Project.builder().id(2L).title("P2").deadline(3).expectedRevenue(new BigDecimal("200")).build();
+        Project p3 = Project.builder().id(3L).title("P3").deadline(3).expectedRevenue(new BigDecimal("100")).build();
+
+        List<Project> projects = Arrays.asList(p1, p2, p3);
+        Map<Integer, Project> schedule = strategy.schedule(projects, 2);
+
+        assertEquals(2, schedule.size());
+        assertEquals("P1", schedule.get(2).getTitle());
+        assertEquals("P2", schedule.get(1).getTitle());
+    }
 }